@@ -37,7 +37,9 @@ import org.wso2.carbon.user.core.util.UserCoreUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.user.common.Constants.ERROR_CODE_DELIMITER;
@@ -154,8 +156,11 @@ public class UserAssociationService {
                                                                               federatedAssociations) {
 
         List<FederatedAssociationDTO> federatedAssociationDTOs = new ArrayList<>();
+        // Associations of a user usually point to a handful of IdPs, hence the IdP DTOs are built once per IdP name,
+        // which is unique within a tenant. The serialized response still contains the IdP of each association.
+        Map<String, IdpDTO> idpDTOs = new HashMap<>();
         for (FederatedAssociation federatedAssociation : federatedAssociations) {
-            federatedAssociationDTOs.add(getFederatedAssociationDTO(federatedAssociation));
+            federatedAssociationDTOs.add(getFederatedAssociationDTO(federatedAssociation, idpDTOs));
         }
         return federatedAssociationDTOs;
     }
@@ -174,30 +179,33 @@ public class UserAssociationService {
         return userDTO;
     }
 
-    private FederatedAssociationDTO getFederatedAssociationDTO(FederatedAssociation federatedAssociation) {
+    private FederatedAssociationDTO getFederatedAssociationDTO(FederatedAssociation federatedAssociation,
+                                                               Map<String, IdpDTO> idpDTOs) {
 
         FederatedAssociationDTO federatedAssociationDTO = new FederatedAssociationDTO();
         federatedAssociationDTO.setId(federatedAssociation.getId());
         federatedAssociationDTO.setFederatedUserId(federatedAssociation.getFederatedUserId());
 
-        IdpDTO idpDTO = new IdpDTO();
-        idpDTO.setId(federatedAssociation.getIdp().getId());
-        idpDTO.setName(federatedAssociation.getIdp().getName());
-        if (federatedAssociation.getIdp().getDisplayName() == null) {
-            idpDTO.setDisplayName(StringUtils.EMPTY);
+        String idpName = federatedAssociation.getIdp().getName();
+        if (idpName == null) {
+            federatedAssociationDTO.setIdp(getIdpDTO(federatedAssociation));
         } else {
-            idpDTO.setDisplayName(federatedAssociation.getIdp().getDisplayName());
+            federatedAssociationDTO.setIdp(idpDTOs.computeIfAbsent(idpName,
+                    name -> getIdpDTO(federatedAssociation)));
         }
-        if (federatedAssociation.getIdp().getImageUrl() == null) {
-            idpDTO.setImageUrl(StringUtils.EMPTY);
-        } else {
-            idpDTO.setImageUrl(federatedAssociation.getIdp().getImageUrl());
-        }
-
-        federatedAssociationDTO.setIdp(idpDTO);
         return federatedAssociationDTO;
     }
 
+    private IdpDTO getIdpDTO(FederatedAssociation federatedAssociation) {
+
+        IdpDTO idpDTO = new IdpDTO();
+        idpDTO.setId(federatedAssociation.getIdp().getId());
+        idpDTO.setName(federatedAssociation.getIdp().getName());
+        idpDTO.setDisplayName(StringUtils.defaultString(federatedAssociation.getIdp().getDisplayName()));
+        idpDTO.setImageUrl(StringUtils.defaultString(federatedAssociation.getIdp().getImageUrl()));
+        return idpDTO;
+    }
+
     private APIError handleUserAccountAssociationException(UserAccountAssociationException e, String message) {
 
         ErrorResponse errorResponse = new ErrorResponse.Builder()
@@ -81,7 +81,10 @@ public class Constant {
                 "Invalid answer format in the given answer for the challenge question '%s'."),
         ERROR_CODE_NOT_UNIQUE_ANSWER("10017",
                 "The given challenge question answer is not unique",
-                "The given answer for the challenge question, '%s' has been used more than once.");
+                "The given answer for the challenge question, '%s' has been used more than once."),
+        ERROR_CODE_INVALID_PAGINATION("10018",
+                "Invalid pagination parameters.",
+                "Offset and limit should be non negative integers.");
 
         private final String code;
         private final String message;
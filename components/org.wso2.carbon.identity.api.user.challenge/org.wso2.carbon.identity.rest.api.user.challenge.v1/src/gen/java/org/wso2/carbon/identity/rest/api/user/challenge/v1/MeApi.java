@@ -169,8 +169,8 @@ public class MeApi  {
         
         @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error") })
 
-    public Response getChallengesForLoggedInUser(@ApiParam(value = "Maximum number of records to return. _*This filtering is not yet supported._") @QueryParam("limit")  Integer limit,
-    @ApiParam(value = "Number of records to skip for pagination. _*This filtering is not yet supported._") @QueryParam("offset")  Integer offset)
+    public Response getChallengesForLoggedInUser(@ApiParam(value = "Maximum number of records to return.") @QueryParam("limit")  Integer limit,
+    @ApiParam(value = "Number of records to skip for pagination.") @QueryParam("offset")  Integer offset)
     {
     return delegate.getChallengesForLoggedInUser(limit,offset);
     }
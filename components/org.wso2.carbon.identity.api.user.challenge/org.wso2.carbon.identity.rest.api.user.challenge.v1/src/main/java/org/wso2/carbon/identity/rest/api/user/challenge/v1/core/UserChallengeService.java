@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.identity.rest.api.user.challenge.v1.core;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.user.challenge.common.ChallengeQuestionServiceHolder;
@@ -36,11 +37,16 @@ import org.wso2.carbon.identity.rest.api.user.challenge.v1.dto.ChallengeQuestion
 import org.wso2.carbon.identity.rest.api.user.challenge.v1.dto.ChallengeSetDTO;
 import org.wso2.carbon.identity.rest.api.user.challenge.v1.dto.UserChallengeAnswerDTO;
 import org.wso2.carbon.identity.rest.api.user.challenge.v1.dto.UserChallengeAnswerResponseDTO;
+import org.wso2.carbon.user.core.UserStoreConfigConstants;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.ws.rs.core.Response;
 
 import static java.util.stream.Collectors.groupingBy;
@@ -52,13 +58,22 @@ public class UserChallengeService {
 
     private static final Log log = LogFactory.getLog(UserChallengeService.class);
     public static final String WSO2_CLAIM_DIALECT = "http://wso2.org/claims/";
+    private static final String USER_LOCK_KEY_SEPARATOR = "/";
+
+    /**
+     * Locks guarding the read, validate and write sequence of challenge answer mutations, one for each user with a
+     * mutation in progress. Concurrent mutations of the same user are applied one after the other and the later one
+     * is validated against the outcome of the former instead of overwriting it, while mutations of different users
+     * do not wait on each other's user store calls. A lock is removed once no request holds or waits for it.
+     */
+    private final Map<String, UserLock> userLocks = new ConcurrentHashMap<>();
 
     /**
      * Get challenges available for a specific user to answer
      *
      * @param user   user
-     * @param offset limit
-     * @param limit  offset
+     * @param offset number of challenge sets to skip (optional)
+     * @param limit  maximum number of challenge sets to return (optional)
      * @return list of available Challenges
      */
     public List<ChallengeSetDTO> getChallengesForUser(User user, Integer offset, Integer limit) {
@@ -84,14 +99,19 @@ public class UserChallengeService {
 
         List<UserChallengeAnswer> answers = buildChallengeAnswers(challengeAnswers);
         try {
-            List<String> answeredList = ChallengeQuestionServiceHolder.getChallengeQuestionManager()
-                    .getChallengeQuestionUris(user);
-            if (answeredList.size() > 0) {
-                throw handleError(Response.Status.CONFLICT,
-                        Constant.ErrorMessage.ERROR_CODE_USER_ALREADY_ANSWERED_CHALLENGES);
+            UserLock lock = lockUser(user);
+            try {
+                List<String> answeredList = ChallengeQuestionServiceHolder.getChallengeQuestionManager()
+                        .getChallengeQuestionUris(user);
+                if (answeredList.size() > 0) {
+                    throw handleError(Response.Status.CONFLICT,
+                            Constant.ErrorMessage.ERROR_CODE_USER_ALREADY_ANSWERED_CHALLENGES);
+                }
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager()
+                        .setChallengesOfUser(user, answers.toArray(new UserChallengeAnswer[answers.size()]));
+            } finally {
+                unlockUser(lock);
             }
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager()
-                    .setChallengesOfUser(user, answers.toArray(new UserChallengeAnswer[answers.size()]));
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     Constant.ErrorMessage.ERROR_CODE_ERROR_SETTING_CHALLENGE_ANSWERS_OF_USER);
@@ -110,9 +130,14 @@ public class UserChallengeService {
 
         List<UserChallengeAnswer> answers = buildChallengeAnswers(newChallengeAnswers);
         try {
-            validateUserAnsweredChallenges(user);
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager()
-                    .setChallengesOfUser(user, answers.toArray(new UserChallengeAnswer[answers.size()]));
+            UserLock lock = lockUser(user);
+            try {
+                validateUserAnsweredChallenges(user);
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager()
+                        .setChallengesOfUser(user, answers.toArray(new UserChallengeAnswer[answers.size()]));
+            } finally {
+                unlockUser(lock);
+            }
 
         } catch (IdentityRecoveryException e) {
 
@@ -134,11 +159,16 @@ public class UserChallengeService {
                                                UserChallengeAnswerDTO challengeAnswer) {
 
         try {
-            validateUserAnsweredChallenge(user, challengeSetId);
-            UserChallengeAnswer answer = new UserChallengeAnswer(
-                    createChallengeQuestion(challengeSetId, challengeAnswer.getChallengeQuestion()),
-                    challengeAnswer.getAnswer());
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager().setChallengeOfUser(user, answer);
+            UserLock lock = lockUser(user);
+            try {
+                validateUserAnsweredChallenge(user, challengeSetId);
+                UserChallengeAnswer answer = new UserChallengeAnswer(
+                        createChallengeQuestion(challengeSetId, challengeAnswer.getChallengeQuestion()),
+                        challengeAnswer.getAnswer());
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager().setChallengeOfUser(user, answer);
+            } finally {
+                unlockUser(lock);
+            }
         } catch (IdentityRecoveryException e) {
 
             throw handleIdentityRecoveryException(e,
@@ -158,16 +188,21 @@ public class UserChallengeService {
     public boolean addChallengeAnswerOfUser(User user, String challengeSetId, UserChallengeAnswerDTO challengeAnswer) {
 
         try {
-            List<String> answeredList = ChallengeQuestionServiceHolder.getChallengeQuestionManager()
-                    .getChallengeQuestionUris(user);
-            if (!answeredList.isEmpty() && answeredList.contains(WSO2_CLAIM_DIALECT + challengeSetId)) {
-                throw handleError(Response.Status.CONFLICT,
-                        Constant.ErrorMessage.ERROR_CODE_USER_ALREADY_ANSWERED_CHALLENGE);
+            UserLock lock = lockUser(user);
+            try {
+                List<String> answeredList = ChallengeQuestionServiceHolder.getChallengeQuestionManager()
+                        .getChallengeQuestionUris(user);
+                if (!answeredList.isEmpty() && answeredList.contains(WSO2_CLAIM_DIALECT + challengeSetId)) {
+                    throw handleError(Response.Status.CONFLICT,
+                            Constant.ErrorMessage.ERROR_CODE_USER_ALREADY_ANSWERED_CHALLENGE);
+                }
+                UserChallengeAnswer answer = new UserChallengeAnswer(
+                        createChallengeQuestion(challengeSetId, challengeAnswer.getChallengeQuestion()),
+                        challengeAnswer.getAnswer());
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager().setChallengeOfUser(user, answer);
+            } finally {
+                unlockUser(lock);
             }
-            UserChallengeAnswer answer = new UserChallengeAnswer(
-                    createChallengeQuestion(challengeSetId, challengeAnswer.getChallengeQuestion()),
-                    challengeAnswer.getAnswer());
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager().setChallengeOfUser(user, answer);
         } catch (IdentityRecoveryException e) {
 
             throw handleIdentityRecoveryException(e,
@@ -202,9 +237,13 @@ public class UserChallengeService {
     public boolean removeChallengeAnswersOfUser(User user) {
 
         try {
-            validateUserAnsweredChallenges(user);
-
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager().removeChallengeAnswersOfUser(user);
+            UserLock lock = lockUser(user);
+            try {
+                validateUserAnsweredChallenges(user);
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager().removeChallengeAnswersOfUser(user);
+            } finally {
+                unlockUser(lock);
+            }
         } catch (IdentityRecoveryException e) {
 
             throw handleIdentityRecoveryException(e,
@@ -222,9 +261,14 @@ public class UserChallengeService {
      */
     public boolean removeChallengeAnswerOfUser(User user, String challengeSetId) {
         try {
-            validateUserAnsweredChallenge(user, challengeSetId);
-            ChallengeQuestionServiceHolder.getChallengeQuestionManager()
-                    .removeChallengeAnswerOfUser(user, WSO2_CLAIM_DIALECT + challengeSetId);
+            UserLock lock = lockUser(user);
+            try {
+                validateUserAnsweredChallenge(user, challengeSetId);
+                ChallengeQuestionServiceHolder.getChallengeQuestionManager()
+                        .removeChallengeAnswerOfUser(user, WSO2_CLAIM_DIALECT + challengeSetId);
+            } finally {
+                unlockUser(lock);
+            }
         } catch (IdentityRecoveryException e) {
 
             throw handleIdentityRecoveryException(e,
@@ -233,6 +277,40 @@ public class UserChallengeService {
         return true;
     }
 
+    /**
+     * Acquire the lock guarding the challenge answer mutations of the given user. The lock key is case insensitive
+     * and defaults to the primary user store domain, since the same user can be resolved with a differently cased
+     * username or user store domain, or without a user store domain.
+     *
+     * @param user user
+     * @return acquired lock, to be released with {@link #unlockUser(UserLock)}
+     */
+    private UserLock lockUser(User user) {
+
+        String userStoreDomain = StringUtils.defaultIfBlank(user.getUserStoreDomain(),
+                UserStoreConfigConstants.PRIMARY);
+        String key = StringUtils.lowerCase(userStoreDomain + USER_LOCK_KEY_SEPARATOR + user.getUserName()
+                + USER_LOCK_KEY_SEPARATOR + user.getTenantDomain());
+        UserLock lock = userLocks.compute(key, (k, existingLock) -> {
+            UserLock userLock = existingLock == null ? new UserLock(k) : existingLock;
+            userLock.holders++;
+            return userLock;
+        });
+        lock.lock();
+        return lock;
+    }
+
+    /**
+     * Release a lock acquired with {@link #lockUser(User)}, and remove it if no other request holds or waits for it.
+     *
+     * @param lock lock
+     */
+    private void unlockUser(UserLock lock) {
+
+        lock.unlock();
+        userLocks.computeIfPresent(lock.key, (k, userLock) -> --userLock.holders == 0 ? null : userLock);
+    }
+
     /**
      * Check whether user has answered any challenge
      *
@@ -300,11 +378,32 @@ public class UserChallengeService {
     private List<ChallengeSetDTO> buildChallengesDTO(List<ChallengeQuestion> challengeQuestions, Integer offset,
                                                      Integer limit) {
 
+        validatePaginationParameters(offset, limit);
         Map<String, List<ChallengeQuestion>> challengeSets = groupChallenges(challengeQuestions);
-        return challengeSets.entrySet().stream().map((e) -> getChallengeSetDTO(e.getKey(), e.getValue()))
+        Stream<Map.Entry<String, List<ChallengeQuestion>>> challengeSetStream = challengeSets.entrySet().stream();
+        if (offset != null) {
+            challengeSetStream = challengeSetStream.skip(offset);
+        }
+        if (limit != null) {
+            challengeSetStream = challengeSetStream.limit(limit);
+        }
+        return challengeSetStream.map((e) -> getChallengeSetDTO(e.getKey(), e.getValue()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Check whether the given offset and limit are non negative
+     *
+     * @param offset
+     * @param limit
+     */
+    private void validatePaginationParameters(Integer offset, Integer limit) {
+
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            throw handleError(Response.Status.BAD_REQUEST, Constant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION);
+        }
+    }
+
     /**
      * Build ChallengeSetDTO from ChallengeQuestion list
      *
@@ -334,9 +433,16 @@ public class UserChallengeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Group challenge questions by the challenge set id, keeping the order in which the sets are first seen
+     *
+     * @param challengeQuestions
+     * @return
+     */
     private Map<String, List<ChallengeQuestion>> groupChallenges(List<ChallengeQuestion> challengeQuestions) {
         return challengeQuestions.stream()
-                .collect(groupingBy(question -> question.getQuestionSetId().split(WSO2_CLAIM_DIALECT)[1]));
+                .collect(groupingBy(question -> StringUtils.removeStart(question.getQuestionSetId(),
+                        WSO2_CLAIM_DIALECT), LinkedHashMap::new, Collectors.toList()));
     }
 
     /**
@@ -390,4 +496,19 @@ public class UserChallengeService {
         return new ErrorResponse.Builder().withCode(errorEnum.getCode()).withMessage(errorEnum.getMessage())
                 .withDescription(errorEnum.getDescription());
     }
+
+    /**
+     * Lock of a user, with the number of requests holding or waiting for it. The count is only updated within the
+     * atomic compute operations of the lock map.
+     */
+    private static class UserLock extends ReentrantLock {
+
+        private final String key;
+        private int holders;
+
+        UserLock(String key) {
+
+            this.key = key;
+        }
+    }
 }
@@ -60,7 +60,7 @@ public class MeApiServiceImpl extends MeApiService {
     }
 
     @Override
-    public Response getChallengesForLoggedInUser(Integer offset, Integer limit) {
+    public Response getChallengesForLoggedInUser(Integer limit, Integer offset) {
 
         return Response.ok().entity(challengeService.getChallengesForUser(getUserFromContext(), offset, limit)).build();
     }
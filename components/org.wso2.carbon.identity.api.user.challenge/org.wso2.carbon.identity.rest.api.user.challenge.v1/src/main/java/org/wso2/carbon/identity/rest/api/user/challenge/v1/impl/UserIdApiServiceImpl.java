@@ -80,7 +80,7 @@ public class UserIdApiServiceImpl extends UserIdApiService {
     }
 
     @Override
-    public Response getChallengesForAUser(String userId, Integer offset, Integer limit) {
+    public Response getChallengesForAUser(String userId, Integer limit, Integer offset) {
 
         return Response.ok().entity(challengeService.getChallengesForUser(getUser(userId), offset, limit)).build();
     }
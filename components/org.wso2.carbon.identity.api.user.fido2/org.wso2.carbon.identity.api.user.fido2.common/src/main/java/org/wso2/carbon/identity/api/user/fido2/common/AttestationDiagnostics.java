@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.identity.api.user.fido2.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diagnostics for the attestation responses received by the FIDO2 API. Attestation responses are client controlled
+ * and can be many kilobytes long, hence they are truncated before being logged or returned in an error, and only a
+ * sample of the received responses and of the failures of each type is logged. Responses and failures are only
+ * counted while debug logging is enabled, and the sampled failure logs carry the count of their type.
+ */
+public class AttestationDiagnostics {
+
+    private static final Log log = LogFactory.getLog(AttestationDiagnostics.class);
+
+    private static final Map<Constants.ErrorMessages, AtomicLong> failureCounts = new ConcurrentHashMap<>();
+    private static final AtomicLong responseCount = new AtomicLong();
+
+    private AttestationDiagnostics() {
+
+    }
+
+    /**
+     * Truncate the given attestation response to {@link Constants#MAX_ATTESTATION_PAYLOAD_LENGTH} characters.
+     *
+     * @param payload Attestation response received from the client.
+     * @return Payload which is safe to be logged or returned in an error.
+     */
+    public static String truncate(String payload) {
+
+        if (payload == null || payload.length() <= Constants.MAX_ATTESTATION_PAYLOAD_LENGTH) {
+            return payload;
+        }
+        return payload.substring(0, Constants.MAX_ATTESTATION_PAYLOAD_LENGTH) + String.format(
+                Constants.TRUNCATED_PAYLOAD_SUFFIX, payload.length());
+    }
+
+    /**
+     * Log a received attestation response in debug mode. The first response and every
+     * {@link Constants#ATTESTATION_LOG_SAMPLE_RATE}th response after that are logged.
+     *
+     * @param payload Attestation response received from the client.
+     */
+    public static void logResponse(String payload) {
+
+        if (log.isDebugEnabled()) {
+            long count = responseCount.incrementAndGet();
+            if ((count - 1) % Constants.ATTESTATION_LOG_SAMPLE_RATE == 0) {
+                log.debug("Received finish registration response (1 in " + Constants.ATTESTATION_LOG_SAMPLE_RATE
+                        + " logged): " + truncate(payload));
+            }
+        }
+    }
+
+    /**
+     * Record a failure while processing an attestation response. The first failure of each type and every
+     * {@link Constants#ATTESTATION_LOG_SAMPLE_RATE}th failure after that are logged in debug mode.
+     *
+     * @param error   Type of the failure.
+     * @param payload Attestation response received from the client.
+     * @param e       Cause of the failure.
+     */
+    public static void recordFailure(Constants.ErrorMessages error, String payload, Exception e) {
+
+        if (log.isDebugEnabled()) {
+            long count = failureCounts.computeIfAbsent(error, key -> new AtomicLong()).incrementAndGet();
+            if ((count - 1) % Constants.ATTESTATION_LOG_SAMPLE_RATE == 0) {
+                log.debug("Attestation failure: " + error.getCode() + ", occurrences: " + count + ", response: "
+                        + truncate(payload), e);
+            }
+        }
+    }
+}
@@ -22,6 +22,12 @@ package org.wso2.carbon.identity.api.user.fido2.common;
 public class Constants {
 
     public static final String EQUAL_OPERATOR = "=";
+    public static final int DEREGISTRATION_MAX_CREDENTIALS = 100;
+
+    // Attestation response diagnostics.
+    public static final int MAX_ATTESTATION_PAYLOAD_LENGTH = 256;
+    public static final String TRUNCATED_PAYLOAD_SUFFIX = "...(truncated, %d characters)";
+    public static final int ATTESTATION_LOG_SAMPLE_RATE = 100;
 
     // OAuth Authorized Apps error code prefix.
     public static final String FIDO2_ERROR_CODE_PREFIX = "FID-";
@@ -45,7 +51,9 @@ public class Constants {
                 "A system error occurred while deleting fido credential with credentialId : %s "),
 
         ERROR_CODE_USER_NOT_REGISTERED("10006", "Error while retrieving user credentials",
-                                              "User doesn't have fido credentials");
+                                              "User doesn't have fido credentials"),
+        ERROR_CODE_INVALID_CREDENTIAL_IDS("10007", "Error while deleting user credentials",
+                "At least one and at most %s non empty credentialIds are required for deregistration");
 
         private final String code;
         private final String message;
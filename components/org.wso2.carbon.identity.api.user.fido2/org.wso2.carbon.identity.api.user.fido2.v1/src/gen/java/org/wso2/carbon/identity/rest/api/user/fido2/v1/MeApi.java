@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.rest.api.user.fido2.v1.factories.MeApiServiceFac
 import io.swagger.annotations.ApiParam;
 
 import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.ErrorDTO;
+import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.CredentialDeregistrationResultDTO;
 
 import java.util.List;
 
@@ -64,6 +65,24 @@ public class MeApi  {
     return delegate.meWebauthnCredentialIdDelete(credentialId);
     }
     @POST
+    @Path("/webauthn/deregister")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Deregister devices by credentialIds\n", notes = "This API is used to deregister a list of devices by their credentialIds. The result of deregistering each\ncredential is returned separately.\n", response = CredentialDeregistrationResultDTO.class, responseContainer = "List")
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "OK"),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request"),
+        
+        @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized"),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Server Error") })
+
+    public Response meWebauthnDeregisterPost(@ApiParam(value = "List of credentialIds to be deregistered" ,required=true ) List<String> credentialIds)
+    {
+    return delegate.meWebauthnDeregisterPost(credentialIds);
+    }
+    @POST
     @Path("/webauthn/finish-registration")
     @Consumes({ "application/json" })
     @Produces({ "application/json" })
@@ -20,6 +20,7 @@ import org.wso2.carbon.identity.rest.api.user.fido2.v1.*;
 import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.*;
 
 import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.ErrorDTO;
+import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.CredentialDeregistrationResultDTO;
 
 import java.util.List;
 
@@ -30,6 +31,7 @@ import javax.ws.rs.core.Response;
 
 public abstract class MeApiService {
     public abstract Response meWebauthnCredentialIdDelete(String credentialId);
+    public abstract Response meWebauthnDeregisterPost(List<String> credentialIds);
     public abstract Response meWebauthnFinishRegistrationPost(String response);
     public abstract Response meWebauthnGet(String username);
     public abstract Response meWebauthnStartRegistrationPost(String appId);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.user.fido2.common.AttestationDiagnostics;
 import org.wso2.carbon.identity.api.user.fido2.common.Constants;
 import org.wso2.carbon.identity.api.user.fido2.common.Util;
 import org.wso2.carbon.identity.application.authenticator.fido2.core.WebAuthnService;
@@ -14,10 +15,14 @@ import org.wso2.carbon.identity.application.authenticator.fido2.util.Either;
 import org.wso2.carbon.identity.application.authenticator.fido2.util.FIDOUtil;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.rest.api.user.fido2.v1.MeApiService;
+import org.wso2.carbon.identity.rest.api.user.fido2.v1.dto.CredentialDeregistrationResultDTO;
 
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import javax.ws.rs.core.Response;
 
 /**
@@ -43,19 +48,47 @@ public class MeApiServiceImpl extends MeApiService {
     }
 
     @Override
-    public Response meWebauthnFinishRegistrationPost(String response) {
+    public Response meWebauthnDeregisterPost(List<String> credentialIds) {
 
-        if (log.isDebugEnabled()) {
-            log.debug(MessageFormat.format("Received finish registration response: {0}", response));
+        if (credentialIds == null || credentialIds.isEmpty() ||
+                credentialIds.size() > Constants.DEREGISTRATION_MAX_CREDENTIALS ||
+                credentialIds.stream().anyMatch(id -> id == null || id.trim().isEmpty())) {
+            throw Util.handleError(Response.Status.BAD_REQUEST, Constants.ErrorMessages
+                    .ERROR_CODE_INVALID_CREDENTIAL_IDS, String.valueOf(Constants.DEREGISTRATION_MAX_CREDENTIALS));
+        }
+        List<CredentialDeregistrationResultDTO> results = new ArrayList<>();
+        for (String credentialId : new LinkedHashSet<>(credentialIds)) {
+            CredentialDeregistrationResultDTO result = new CredentialDeregistrationResultDTO();
+            result.setCredentialId(credentialId);
+            try {
+                webAuthnService.deregisterCredential(credentialId);
+                result.setStatus(CredentialDeregistrationResultDTO.StatusEnum.SUCCESS);
+            } catch (IOException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while deleting fido credential with credentialId: " + credentialId, e);
+                }
+                result.setStatus(CredentialDeregistrationResultDTO.StatusEnum.FAILED);
+            }
+            results.add(result);
         }
+        return Response.ok().entity(results).build();
+    }
+
+    @Override
+    public Response meWebauthnFinishRegistrationPost(String response) {
+
+        AttestationDiagnostics.logResponse(response);
         try {
             webAuthnService.finishRegistration(response);
         } catch (FIDO2AuthenticatorServerException ex) {
+            AttestationDiagnostics.recordFailure(Constants.ErrorMessages.ERROR_CODE_FINISH_REGISTRATION, response, ex);
             throw Util.handleError(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessages
                     .ERROR_CODE_FINISH_REGISTRATION);
         } catch (FIDO2AuthenticatorException | IOException e) {
+            AttestationDiagnostics.recordFailure(Constants.ErrorMessages.ERROR_CODE_FINISH_REGISTRATION_BY_USER,
+                    response, e);
             throw Util.handleError(Response.Status.BAD_REQUEST, Constants.ErrorMessages
-                            .ERROR_CODE_FINISH_REGISTRATION_BY_USER, response);
+                            .ERROR_CODE_FINISH_REGISTRATION_BY_USER, AttestationDiagnostics.truncate(response));
         }
         return Response.ok().entity(response).build();
     }
@@ -24,6 +24,11 @@ package org.wso2.carbon.identity.api.user.functionality.common;
 public class Constants {
 
     public static final String FUNCTIONALITY_ERROR_PREFIX = "UFM-";
+    public static final int BULK_STATUS_CHANGE_MAX_USERS = 100;
+    public static final int LOCK_STATUS_MAX_FUNCTIONALITIES = 50;
+    public static final String FUNCTIONALITY_IDS_SEPARATOR = ",";
+    public static final String BULK_STATUS_CHANGE_PERMISSION = "/permission/admin/manage/identity/identitymgt/update";
+    public static final String UI_EXECUTE = "ui.execute";
 
     /**
      * Enum for error messages.
@@ -39,6 +44,12 @@ public class Constants {
         ERROR_CODE_BAD_REQUEST("10004", "Invalid Request.", "The request provided is invalid."),
         ERROR_CODE_FUNCTIONALITY_ALREADY_LOCKED("10005", "Functionality is already locked.", "This functionality is " +
                 "already locked"),
+        ERROR_CODE_INVALID_BULK_REQUEST("10006", "Invalid Request.", "The request should contain at least one " +
+                "and at most %s non empty userIds."),
+        ERROR_CODE_INVALID_FUNCTIONALITY_IDS("10007", "Invalid Request.", "The request should contain at least " +
+                "one and at most %s functionality identifiers."),
+        ERROR_CODE_BULK_STATUS_CHANGE_NOT_PERMITTED("10008", "Operation is not permitted.", "The user is not " +
+                "permitted to change the status of a functionality for other users."),
 
         // Server errors.
         ERROR_CODE_GET_LOCK_STATUS_FAILED("15001", "Failed to get the lock status", "A system error occurred while " +
@@ -46,7 +57,9 @@ public class Constants {
         ERROR_CODE_LOCK_THE_FUNCTIONALITY_FAILED("15002", "Failed to lock the functionality",
                 "A system error occurred while locking the functionality."),
         ERROR_CODE_UNLOCK_THE_FUNCTIONALITY_FAILED("15003", "Failed to unlock the functionality",
-                "A system error occurred while locking the functionality.");
+                "A system error occurred while locking the functionality."),
+        ERROR_CODE_AUTHORIZATION_FAILED("15004", "Failed to authorize the request", "A system error occurred " +
+                "while checking the permissions of the user.");
 
         private final String code;
         private final String message;
@@ -65,6 +65,30 @@ public class MeApi  {
         return delegate.changeStatusOfLoggedInUser(functionId,  userStatusChangeRequest );
     }
 
+    @Valid
+    @GET
+    @Path("/user-functionality")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the lock status of a list of functionalities of the authenticated user ", notes = "Get the status of a list of functionalities of the authenticated user. The statuses are returned as a map keyed by the FunctionalityIdentifier.", response = LockStatusResponse.class, responseContainer = "Map", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "user functionality management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = LockStatusResponse.class, responseContainer = "Map"),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getLockStatusesOfLoggedInUser(@NotNull @Valid @ApiParam(value = "Comma separated list of FunctionalityIdentifiers.",required=true)  @QueryParam("ids") String ids) {
+
+        return delegate.getLockStatusesOfLoggedInUser(ids );
+    }
+
     @Valid
     @GET
     @Path("/user-functionality/{function-id}")
@@ -32,5 +32,7 @@ public interface MeApiService {
 
       public Response changeStatusOfLoggedInUser(String functionId, UserStatusChangeRequest userStatusChangeRequest);
 
+      public Response getLockStatusesOfLoggedInUser(String ids);
+
       public Response getLockStatusOfLoggedInUser(String functionId);
 }
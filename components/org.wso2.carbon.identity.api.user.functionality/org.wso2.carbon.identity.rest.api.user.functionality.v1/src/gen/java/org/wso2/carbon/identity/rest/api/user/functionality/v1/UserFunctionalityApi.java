@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.functionality.v1;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.BulkStatusChangeRequest;
+import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.BulkStatusChangeResult;
+import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.Error;
+
+import javax.validation.Valid;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Response;
+import io.swagger.annotations.*;
+
+@Path("/user-functionality")
+@Api(description = "The user-functionality API", hidden = true)
+
+public class UserFunctionalityApi {
+
+    @Autowired
+    private UserFunctionalityApiService delegate;
+
+    @Valid
+    @PUT
+    @Path("/{function-id}/bulk-status")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Lock or Unlock a function for a list of users", notes = "This API is used to lock or unlock a function for a list of users. The result of the status change is returned separately for each user.", hidden = true, response = BulkStatusChangeResult.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "user functionality management" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "The status change is processed for each of the users.", response = BulkStatusChangeResult.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response changeStatusOfUsers(@ApiParam(value = "FunctionalityIdentifier.",required=true) @PathParam("function-id") String functionId, @ApiParam(value = "" ) @Valid BulkStatusChangeRequest bulkStatusChangeRequest) {
+
+        return delegate.changeStatusOfUsers(functionId,  bulkStatusChangeRequest );
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.LockStatusR
 import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.StatusChangeRequest;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
@@ -60,6 +61,30 @@ public class UserIdApi {
         return delegate.changeStatus(functionId,  userId,  statusChangeRequest );
     }
 
+    @Valid
+    @GET
+    @Path("/user-functionality")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the lock status of a list of functionalities of a user ", notes = "Get the status of a list of functionalities of a user. The statuses are returned as a map keyed by the FunctionalityIdentifier.", response = LockStatusResponse.class, responseContainer = "Map", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "user functionality management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = LockStatusResponse.class, responseContainer = "Map"),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getLockStatuses(@ApiParam(value = "UserID.",required=true) @PathParam("user-id") String userId, @NotNull @Valid @ApiParam(value = "Comma separated list of FunctionalityIdentifiers.",required=true)  @QueryParam("ids") String ids) {
+
+        return delegate.getLockStatuses(userId,  ids );
+    }
+
     @Valid
     @GET
     @Path("/user-functionality/{function-id}")
@@ -26,5 +26,7 @@ public interface UserIdApiService {
 
       public Response changeStatus(String functionId, String userId, StatusChangeRequest statusChangeRequest);
 
+      public Response getLockStatuses(String userId, String ids);
+
       public Response getLockStatus(String functionId, String userId);
 }
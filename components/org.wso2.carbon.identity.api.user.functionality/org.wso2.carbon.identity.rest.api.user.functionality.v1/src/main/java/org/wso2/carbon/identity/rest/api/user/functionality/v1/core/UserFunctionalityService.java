@@ -28,6 +28,8 @@ import org.wso2.carbon.identity.api.user.common.function.UserToUniqueId;
 import org.wso2.carbon.identity.api.user.functionality.common.Constants;
 import org.wso2.carbon.identity.api.user.functionality.common.UserFunctionalityServiceHolder;
 import org.wso2.carbon.identity.application.common.model.User;
+import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.BulkStatusChangeRequest;
+import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.BulkStatusChangeResult;
 import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.LockStatusResponse;
 import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.StatusChangeRequest;
 import org.wso2.carbon.identity.rest.api.user.functionality.v1.model.UserStatusChangeRequest;
@@ -36,7 +38,15 @@ import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityMgtConst
 import org.wso2.carbon.identity.user.functionality.mgt.exception.UserFunctionalityManagementClientException;
 import org.wso2.carbon.identity.user.functionality.mgt.exception.UserFunctionalityManagementException;
 import org.wso2.carbon.identity.user.functionality.mgt.model.FunctionalityLockStatus;
+import org.wso2.carbon.user.api.UserRealm;
+import org.wso2.carbon.user.api.UserStoreException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.user.common.ContextLoader.getUserFromContext;
@@ -75,6 +85,40 @@ public class UserFunctionalityService {
         }
     }
 
+    /**
+     * Lock or Unlock a functionality of a list of users by a privileged user. The status of each user is changed
+     * separately and a failure for one user does not affect the others. The permission of the caller is checked
+     * here as well, since this resource is not covered by the access control entries of the per user resources.
+     *
+     * @param functionalityIdentifier FunctionalityIdentifier
+     * @param bulkStatusChangeRequest BulkStatusChangeRequest
+     * @return Result of the status change for each user
+     */
+    public List<BulkStatusChangeResult> changeStatusOfUsers(String functionalityIdentifier,
+                                                            BulkStatusChangeRequest bulkStatusChangeRequest) {
+
+        authorizeBulkStatusChange();
+        validateBulkStatusChangeRequest(bulkStatusChangeRequest);
+        long unlockTime = 0;
+        if (bulkStatusChangeRequest.getTimeToLock() != null) {
+            try {
+                unlockTime = Long.parseLong(bulkStatusChangeRequest.getTimeToLock());
+            } catch (NumberFormatException e) {
+                throw handleError(Response.Status.BAD_REQUEST, Constants.ErrorMessages.ERROR_CODE_BAD_REQUEST);
+            }
+        }
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+
+        // The user functionality manager does not support changing the status of several users at once, hence the
+        // status of each user is changed one by one.
+        List<BulkStatusChangeResult> results = new ArrayList<>();
+        for (String userId : new LinkedHashSet<>(bulkStatusChangeRequest.getUserIds())) {
+            results.add(changeStatusOfUser(userId, tenantId, functionalityIdentifier, unlockTime,
+                    bulkStatusChangeRequest));
+        }
+        return results;
+    }
+
     /**
      * Lock a functionality of a user by a privileged user.
      *
@@ -91,10 +135,7 @@ public class UserFunctionalityService {
             if (statusChangeRequest.getTimeToLock() != null) {
                 unlockTime = Long.parseLong(statusChangeRequest.getTimeToLock());
             }
-            UserFunctionalityManager userFunctionalityManager =
-                    UserFunctionalityServiceHolder.getuserFunctionalityManager();
-            userFunctionalityManager.lock(userId,
-                    tenantId, functionalityIdentifier, unlockTime,
+            lockFunctionality(userId, tenantId, functionalityIdentifier, unlockTime,
                     statusChangeRequest.getFunctionalityLockReasonCode(),
                     statusChangeRequest.getFunctionalityLockReason());
             return Response.ok().build();
@@ -119,11 +160,7 @@ public class UserFunctionalityService {
 
         try {
             int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
-            UserFunctionalityManager userFunctionalityManager =
-                    UserFunctionalityServiceHolder.getuserFunctionalityManager();
-            userFunctionalityManager.unlock(userId,
-                    tenantId, functionalityIdentifier);
-            userFunctionalityManager.deleteAllPropertiesForUser(userId, tenantId, functionalityIdentifier);
+            unlockFunctionality(userId, tenantId, functionalityIdentifier);
             return Response.ok().build();
         } catch (UserFunctionalityManagementException e) {
             if (e instanceof UserFunctionalityManagementClientException) {
@@ -162,6 +199,18 @@ public class UserFunctionalityService {
         }
     }
 
+    /**
+     * Get LockStatus of a list of functionalities of a user by a privileged user.
+     *
+     * @param userId                   User Id
+     * @param functionalityIdentifiers Comma separated FunctionalityIdentifiers
+     * @return LockStatusResponse of each functionality, keyed by the FunctionalityIdentifier
+     */
+    public Map<String, LockStatusResponse> getLockStatuses(String userId, String functionalityIdentifiers) {
+
+        return getLockStatusesOfUser(userId, functionalityIdentifiers);
+    }
+
     /**
      * Lock or Unlock a functionality by a user.
      *
@@ -291,6 +340,146 @@ public class UserFunctionalityService {
         }
     }
 
+    /**
+     * Get LockStatus of a list of functionalities by a user.
+     *
+     * @param functionalityIdentifiers Comma separated FunctionalityIdentifiers
+     * @return LockStatusResponse of each functionality, keyed by the FunctionalityIdentifier
+     */
+    public Map<String, LockStatusResponse> getLockStatusesOfLoggedInUser(String functionalityIdentifiers) {
+
+        return getLockStatusesOfUser(getUserIdFromUser(getUserFromContext()), functionalityIdentifiers);
+    }
+
+    private Map<String, LockStatusResponse> getLockStatusesOfUser(String userId, String functionalityIdentifiers) {
+
+        Set<String> functionalityIdentifierSet = parseFunctionalityIdentifiers(functionalityIdentifiers);
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        UserFunctionalityManager userFunctionalityManager =
+                UserFunctionalityServiceHolder.getuserFunctionalityManager();
+        FunctionalityLockStatusToExternal functionalityLockStatusToExternal = new FunctionalityLockStatusToExternal();
+        Map<String, LockStatusResponse> lockStatuses = new LinkedHashMap<>();
+        try {
+            // The user functionality manager does not support fetching the status of several functionalities at
+            // once, hence the statuses are fetched one by one for the already resolved user id.
+            for (String functionalityIdentifier : functionalityIdentifierSet) {
+                FunctionalityLockStatus functionalityLockStatus = userFunctionalityManager
+                        .getLockStatus(userId, tenantId, functionalityIdentifier);
+                lockStatuses.put(functionalityIdentifier,
+                        functionalityLockStatusToExternal.apply(functionalityLockStatus));
+            }
+            return lockStatuses;
+        } catch (UserFunctionalityManagementException e) {
+            if (e instanceof UserFunctionalityManagementClientException) {
+                throw handleUserFunctionalityMgtClientException(e);
+            }
+            log.error("Error occurred while calling user functionality management service.", e);
+            throw handleError(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessages.ERROR_CODE_GET_LOCK_STATUS_FAILED);
+        }
+    }
+
+    private Set<String> parseFunctionalityIdentifiers(String functionalityIdentifiers) {
+
+        Set<String> functionalityIdentifierSet = new LinkedHashSet<>();
+        for (String functionalityIdentifier : StringUtils.split(StringUtils.defaultString(functionalityIdentifiers),
+                Constants.FUNCTIONALITY_IDS_SEPARATOR)) {
+            if (StringUtils.isNotBlank(functionalityIdentifier)) {
+                functionalityIdentifierSet.add(functionalityIdentifier.trim());
+            }
+        }
+        if (functionalityIdentifierSet.isEmpty() ||
+                functionalityIdentifierSet.size() > Constants.LOCK_STATUS_MAX_FUNCTIONALITIES) {
+            throw handleError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_FUNCTIONALITY_IDS,
+                    String.valueOf(Constants.LOCK_STATUS_MAX_FUNCTIONALITIES));
+        }
+        return functionalityIdentifierSet;
+    }
+
+    private void authorizeBulkStatusChange() {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+        boolean authorized;
+        try {
+            UserRealm userRealm = UserFunctionalityServiceHolder.getRealmService().getTenantUserRealm(tenantId);
+            authorized = StringUtils.isNotBlank(username) && userRealm != null && userRealm.getAuthorizationManager()
+                    .isUserAuthorized(username, Constants.BULK_STATUS_CHANGE_PERMISSION, Constants.UI_EXECUTE);
+        } catch (UserStoreException e) {
+            log.error("Error occurred while checking the permissions of the user: " + username, e);
+            throw handleError(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessages.ERROR_CODE_AUTHORIZATION_FAILED);
+        }
+        if (!authorized) {
+            throw handleError(Response.Status.FORBIDDEN,
+                    Constants.ErrorMessages.ERROR_CODE_BULK_STATUS_CHANGE_NOT_PERMITTED);
+        }
+    }
+
+    private void validateBulkStatusChangeRequest(BulkStatusChangeRequest bulkStatusChangeRequest) {
+
+        List<String> userIds = bulkStatusChangeRequest.getUserIds();
+        if (userIds == null || userIds.isEmpty() || userIds.size() > Constants.BULK_STATUS_CHANGE_MAX_USERS ||
+                userIds.stream().anyMatch(StringUtils::isBlank)) {
+            throw handleError(Response.Status.BAD_REQUEST, Constants.ErrorMessages.ERROR_CODE_INVALID_BULK_REQUEST,
+                    String.valueOf(Constants.BULK_STATUS_CHANGE_MAX_USERS));
+        }
+        if (bulkStatusChangeRequest.getAction() == BulkStatusChangeRequest.ActionEnum.UNLOCK &&
+                (bulkStatusChangeRequest.getFunctionalityLockReason() != null ||
+                        bulkStatusChangeRequest.getFunctionalityLockReasonCode() != null ||
+                        bulkStatusChangeRequest.getTimeToLock() != null)) {
+            throw handleError(Response.Status.UNSUPPORTED_MEDIA_TYPE,
+                    Constants.ErrorMessages.ERROR_CODE_UNSUPPORTED_PARAMETERS_FOR_UNLOCK);
+        }
+    }
+
+    private BulkStatusChangeResult changeStatusOfUser(String userId, int tenantId, String functionalityIdentifier,
+                                                      long unlockTime,
+                                                      BulkStatusChangeRequest bulkStatusChangeRequest) {
+
+        BulkStatusChangeResult result = new BulkStatusChangeResult().userId(userId);
+        try {
+            if (bulkStatusChangeRequest.getAction() == BulkStatusChangeRequest.ActionEnum.LOCK) {
+                lockFunctionality(userId, tenantId, functionalityIdentifier, unlockTime,
+                        bulkStatusChangeRequest.getFunctionalityLockReasonCode(),
+                        bulkStatusChangeRequest.getFunctionalityLockReason());
+            } else {
+                unlockFunctionality(userId, tenantId, functionalityIdentifier);
+            }
+            result.setStatus(BulkStatusChangeResult.StatusEnum.SUCCESS);
+        } catch (UserFunctionalityManagementException e) {
+            result.setStatus(BulkStatusChangeResult.StatusEnum.FAILED);
+            if (e instanceof UserFunctionalityManagementClientException) {
+                result.setErrorCode(handleUserFunctionalityMgtClientException(e).getCode());
+            } else {
+                log.error("Error occurred while calling user functionality management service for the user: "
+                        + userId, e);
+                result.setErrorCode(bulkStatusChangeRequest.getAction() == BulkStatusChangeRequest.ActionEnum.LOCK ?
+                        Constants.ErrorMessages.ERROR_CODE_LOCK_THE_FUNCTIONALITY_FAILED.getCode() :
+                        Constants.ErrorMessages.ERROR_CODE_UNLOCK_THE_FUNCTIONALITY_FAILED.getCode());
+            }
+        }
+        return result;
+    }
+
+    private void lockFunctionality(String userId, int tenantId, String functionalityIdentifier, long unlockTime,
+                                   String lockReasonCode, String lockReason)
+            throws UserFunctionalityManagementException {
+
+        UserFunctionalityServiceHolder.getuserFunctionalityManager().lock(userId, tenantId, functionalityIdentifier,
+                unlockTime, lockReasonCode, lockReason);
+    }
+
+    private void unlockFunctionality(String userId, int tenantId, String functionalityIdentifier)
+            throws UserFunctionalityManagementException {
+
+        UserFunctionalityManager userFunctionalityManager =
+                UserFunctionalityServiceHolder.getuserFunctionalityManager();
+        userFunctionalityManager.unlock(userId, tenantId, functionalityIdentifier);
+        userFunctionalityManager.deleteAllPropertiesForUser(userId, tenantId, functionalityIdentifier);
+    }
+
     private APIError handleUserFunctionalityMgtClientException(UserFunctionalityManagementException e) {
 
         if (StringUtils.equals(UserFunctionalityMgtConstants.ErrorMessages.USER_NOT_FOUND.getCode(),
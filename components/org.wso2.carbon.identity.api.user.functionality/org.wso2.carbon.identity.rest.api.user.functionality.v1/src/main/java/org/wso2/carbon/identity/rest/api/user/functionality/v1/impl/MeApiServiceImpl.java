@@ -37,6 +37,12 @@ public class MeApiServiceImpl implements MeApiService {
          return userFunctionalityService.changeStatusOfLoggedInUser(functionId, userStatusChangeRequest);
     }
 
+    @Override
+    public Response getLockStatusesOfLoggedInUser(String ids) {
+
+        return Response.ok().entity(userFunctionalityService.getLockStatusesOfLoggedInUser(ids)).build();
+    }
+
     @Override
     public Response getLockStatusOfLoggedInUser(String functionId) {
 
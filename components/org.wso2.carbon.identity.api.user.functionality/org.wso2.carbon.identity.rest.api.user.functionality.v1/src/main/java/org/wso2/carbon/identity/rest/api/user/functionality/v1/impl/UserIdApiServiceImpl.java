@@ -39,6 +39,12 @@ public class UserIdApiServiceImpl implements UserIdApiService {
         return userFunctionalityService.changeStatus(userId, functionId, statusChangeRequest);
     }
 
+    @Override
+    public Response getLockStatuses(String userId, String ids) {
+
+        return Response.ok().entity(userFunctionalityService.getLockStatuses(userId, ids)).build();
+    }
+
     @Override
     public Response getLockStatus(String functionId, String userId) {
 
@@ -64,6 +64,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 400, message = "Bad Request. Request cannot be processed by the server.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Confirmation code is not found.", response = ErrorResponse.class),
         @ApiResponse(code = 406, message = "Confirmation code given in the request is not valid or expired. ", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response confirmRecovery(@ApiParam(value = "- Request to confirm the password recovery. - `confirmationCode` is `REQUIRED`. " ,required=true) @Valid ConfirmRequest confirmRequest) {
@@ -82,6 +83,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 400, message = "Bad Request. The request cannot be processed by the server.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "No user found for the given set of claims or no recovery channels are availabe for the user.", response = ErrorResponse.class),
         @ApiResponse(code = 409, message = "Mutiple users found for the given claims.", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response initiatePasswordRecovery(@ApiParam(value = "Request to initate password recovery process. The request should contain the claims to identify the user. User claims are `REQUIRED`." ,required=true) @Valid InitRequest initRequest) {
@@ -101,6 +103,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 403, message = "Username recovery is not enabled.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "No user found for the given set of claims or no recovery channels are availabe for the user.", response = ErrorResponse.class),
         @ApiResponse(code = 409, message = "Mutiple users found for the given claims.", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response initiateUsernameRecovery(@ApiParam(value = "Request to initate username recovery process. The request should contain the claims to identify the user. User claims are `REQUIRED`." ,required=true) @Valid InitRequest initRequest) {
@@ -121,6 +124,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 403, message = "Password recovery is not enabled.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Recovery code is not found.", response = ErrorResponse.class),
         @ApiResponse(code = 406, message = "- Recovery code given in the request is not valid or expired. - Channel id is not valid ", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response recoverPassword(@ApiParam(value = "- Request to receive recovery notifications. - `recoveryCode` and `channelId` are `REQUIRED`. - __NOTE__ `channelId` should always be __larger than 0__. " ,required=true) @Valid RecoveryRequest recoveryRequest) {
@@ -140,6 +144,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 400, message = "Bad Request. Request cannot be processed by the server.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Recovery code is not found.", response = ErrorResponse.class),
         @ApiResponse(code = 406, message = "- Recovery code given in the request is not valid or expired. - Channel id is not valid ", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response recoverUsername(@ApiParam(value = "- Request to confirm username recovery and receive recovery notifications. - `recoveryCode` and `channelId` are `REQUIRED`. - __NOTE__ `channelId` should always be __larger than 0__. " ,required=true) @Valid RecoveryRequest recoveryRequest) {
@@ -159,6 +164,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 400, message = "Bad Request. Request cannot be processed by the server.", response = ErrorResponse.class),
         @ApiResponse(code = 404, message = "Resend code is not found.", response = ErrorResponse.class),
         @ApiResponse(code = 406, message = "Resend code given in the request is not valid or expired.", response = ErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response resendConfirmation(@ApiParam(value = "- Request to resend the `confirmationCode` to the user via a user preferred channel. - Can send additional properties. " ,required=true) @Valid ResendConfirmationRequest resendConfirmationRequest) {
@@ -178,6 +184,7 @@ public class RecoveryApi  {
         @ApiResponse(code = 404, message = "Reset code is not found.", response = ErrorResponse.class),
         @ApiResponse(code = 406, message = "Reset code given in the request is not valid or expired.", response = ErrorResponse.class),
         @ApiResponse(code = 412, message = "Password policy violation.", response = RetryErrorResponse.class),
+        @ApiResponse(code = 429, message = "- Too many recovery requests from the client or for the given identifier. - The `Retry-After` header gives the number of seconds to wait before retrying. ", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Server Error.", response = ErrorResponse.class)
     })
     public Response resetPassword(@ApiParam(value = "- Request to reset the password. - `resetCode` and `password` are required. " ,required=true) @Valid ResetRequest resetRequest) {
@@ -17,9 +17,11 @@
 package org.wso2.carbon.identity.rest.api.user.recovery.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.RecoveryApiService;
 
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.PasswordRecoveryService;
+import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.RecoveryRateLimiter;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.UsernameRecoveryService;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.ConfirmRequest;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.InitRequest;
@@ -40,45 +42,58 @@ public class RecoveryApiServiceImpl implements RecoveryApiService {
     @Autowired
     private PasswordRecoveryService passwordRecoveryService;
 
+    @Autowired
+    private RecoveryRateLimiter recoveryRateLimiter;
+
     @Override
     public Response confirmRecovery(ConfirmRequest confirmRequest) {
 
+        recoveryRateLimiter.check(IdentityRecoveryConstants.PASSWORD_RECOVERY_SCENARIO,
+                confirmRequest.getConfirmationCode());
         return passwordRecoveryService.confirmRecovery(confirmRequest);
     }
 
     @Override
     public Response initiatePasswordRecovery(InitRequest initRequest) {
 
+        recoveryRateLimiter.checkClaims(IdentityRecoveryConstants.PASSWORD_RECOVERY_SCENARIO, initRequest.getClaims());
         return passwordRecoveryService.initiatePasswordRecovery(initRequest);
     }
 
     @Override
     public Response initiateUsernameRecovery(InitRequest initRequest) {
 
+        recoveryRateLimiter.checkClaims(IdentityRecoveryConstants.USER_NAME_RECOVERY, initRequest.getClaims());
         return usernameRecoveryService.initiateUsernameRecovery(initRequest);
     }
 
     @Override
     public Response recoverPassword(RecoveryRequest recoveryRequest) {
 
+        recoveryRateLimiter.check(IdentityRecoveryConstants.PASSWORD_RECOVERY_SCENARIO,
+                recoveryRequest.getRecoveryCode());
         return passwordRecoveryService.recoverPassword(recoveryRequest);
     }
 
     @Override
     public Response recoverUsername(RecoveryRequest recoveryRequest) {
 
+        recoveryRateLimiter.check(IdentityRecoveryConstants.USER_NAME_RECOVERY, recoveryRequest.getRecoveryCode());
         return usernameRecoveryService.recoverUsername(recoveryRequest);
     }
 
     @Override
     public Response resendConfirmation(ResendConfirmationRequest resendConfirmationRequest) {
 
+        recoveryRateLimiter.check(IdentityRecoveryConstants.PASSWORD_RECOVERY_SCENARIO,
+                resendConfirmationRequest.getResendCode());
         return passwordRecoveryService.resendConfirmation(resendConfirmationRequest);
     }
 
     @Override
     public Response resetPassword(ResetRequest resetRequest) {
 
+        recoveryRateLimiter.check(IdentityRecoveryConstants.PASSWORD_RECOVERY_SCENARIO, resetRequest.getResetCode());
         return passwordRecoveryService.resetPassword(resetRequest);
     }
 }
@@ -25,6 +25,7 @@ public class Constants {
     public static final String SERVER_ERROR = "Error occurred in the server while performing the task.";
     public static final String DEFAULT_RESPONSE_CONTENT_TYPE = "application/json";
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
 
     // Default error messages.
     public static final String STATUS_FORBIDDEN_MESSAGE_DEFAULT = "Forbidden";
@@ -33,6 +34,9 @@ public class Constants {
     public static final String STATUS_METHOD_NOT_ACCEPTED_MESSAGE_DEFAULT = "Not Accepted";
     public static final String STATUS_CONFLICT_MESSAGE_DEFAULT = "Conflict";
     public static final String STATUS_PRECONDITION_FAILED_MESSAGE_DEFAULT = "Precondition Failed";
+    public static final String STATUS_TOO_MANY_REQUESTS_MESSAGE_DEFAULT = "Too Many Requests";
+    public static final String STATUS_TOO_MANY_REQUESTS_DESCRIPTION_DEFAULT =
+            "Too many recovery requests. Please retry after %d seconds.";
     public static final String STATUS_INTERNAL_SERVER_ERROR_DESCRIPTION_DEFAULT =
             "The server encountered an internal error. Please contact administrator.";
 
@@ -43,6 +47,36 @@ public class Constants {
     public static final String ACCOUNT_RECOVERY_ENDPOINT_BASEPATH = USER_API_PATH_COMPONENT + "/v1";
     public static final String CHALLENGE_QUESTIONS_ENDPOINT_BASEPATH = "identity/recovery/v0.9";
 
+    // Error code for the requests rejected by the rate limiter. The recovery scenario is prepended to the code.
+    public static final String ERROR_CODE_TOO_MANY_REQUESTS = "10050";
+
+    /**
+     * Configurations of the rate limiter of the recovery endpoints.
+     */
+    public static class RateLimitConfig {
+
+        public static final String ENABLE = "UserAccountRecovery.RateLimit.Enable";
+        public static final String CLIENT_IP_CAPACITY = "UserAccountRecovery.RateLimit.ClientIP.Capacity";
+        public static final String CLIENT_IP_REFILL_PERIOD = "UserAccountRecovery.RateLimit.ClientIP.RefillPeriod";
+        public static final String IDENTIFIER_CAPACITY = "UserAccountRecovery.RateLimit.Identifier.Capacity";
+        public static final String IDENTIFIER_REFILL_PERIOD = "UserAccountRecovery.RateLimit.Identifier.RefillPeriod";
+        public static final String MAX_TRACKED_KEYS = "UserAccountRecovery.RateLimit.MaxTrackedKeys";
+        public static final String TRUSTED_PROXIES = "UserAccountRecovery.RateLimit.TrustedProxies";
+
+        // Default limits. The refill periods are the number of seconds taken to add one token to a bucket.
+        public static final int DEFAULT_CLIENT_IP_CAPACITY = 30;
+        public static final int DEFAULT_CLIENT_IP_REFILL_PERIOD = 2;
+        public static final int DEFAULT_IDENTIFIER_CAPACITY = 5;
+        public static final int DEFAULT_IDENTIFIER_REFILL_PERIOD = 60;
+        public static final int DEFAULT_MAX_TRACKED_KEYS = 100000;
+
+        public static final String CLIENT_IP_KEY_PREFIX = "ip:";
+        public static final String IDENTIFIER_KEY_PREFIX = "id:";
+        public static final String KEY_SEPARATOR = "/";
+        public static final String HEADER_X_FORWARDED_FOR = "X-Forwarded-For";
+        public static final String ADDRESS_SEPARATOR = ",";
+    }
+
     /**
      * Relation states for the APIs.
      */
@@ -58,21 +92,21 @@ public class Constants {
     public enum APICall {
 
         INITIATE_USERNAME_RECOVERY_API("POST", "initiate_username_recovery",
-                "/recovery/username/init"),
+                "/recovery/username/init", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         INITIATE_PASSWORD_RECOVERY_API("POST", "initiate_password_recovery",
-                "/recovery/password/init"),
+                "/recovery/password/init", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         RECOVER_USERNAME_API("POST", "recover_username",
-                "/recovery/username/recover"),
+                "/recovery/username/recover", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         RECOVER_PASSWORD_API("POST", "recover_password",
-                "/recovery/password/recover"),
+                "/recovery/password/recover", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         CONFIRM_PASSWORD_RECOVERY_API("POST", "confirm_password_recovery",
-                "/recovery/password/confirm"),
+                "/recovery/password/confirm", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         RESET_PASSWORD_API("POST", "reset_password",
-                "/recovery/password/reset"),
+                "/recovery/password/reset", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         RESEND_CONFIRMATION_API("POST", "resend_confirmation",
-                "/recovery/password/resend"),
+                "/recovery/password/resend", ACCOUNT_RECOVERY_ENDPOINT_BASEPATH),
         RECOVER_WITH_SECURITY_QUESTIONS_API("GET", "security_questions_api",
-                "/security-question?username=%s");
+                "/security-question?username=%s", CHALLENGE_QUESTIONS_ENDPOINT_BASEPATH);
 
         /**
          * Name of the API.
@@ -84,16 +118,22 @@ public class Constants {
          */
         private final String apiUrl;
 
+        /**
+         * Base path of the API.
+         */
+        private final String basePath;
+
         /**
          * Http method call.
          */
         private String type;
 
-        APICall(String type, String apiName, String apiUrl) {
+        APICall(String type, String apiName, String apiUrl, String basePath) {
 
             this.type = type;
             this.apiName = apiName;
             this.apiUrl = apiUrl;
+            this.basePath = basePath;
         }
 
         /**
@@ -114,5 +154,15 @@ public class Constants {
 
             return apiUrl;
         }
+
+        /**
+         * Get the base path of the API.
+         *
+         * @return API base path
+         */
+        public String getBasePath() {
+
+            return basePath;
+        }
     }
 }
@@ -226,15 +226,11 @@ public class PasswordRecoveryService {
 
         ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
         // Add confirm API call information.
-        apiCallsArrayList.add(RecoveryUtil.buildApiCall(Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API.getType(),
-                Constants.RelationStates.NEXT_REL, RecoveryUtil
-                        .buildURIForBody(tenantDomain, Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API,
+                Constants.RelationStates.NEXT_REL, null));
         // Add resend confirmation code API call information.
-        apiCallsArrayList.add(RecoveryUtil.buildApiCall(Constants.APICall.RESEND_CONFIRMATION_API.getType(),
-                Constants.RelationStates.RESEND_REL, RecoveryUtil
-                        .buildURIForBody(tenantDomain, Constants.APICall.RESEND_CONFIRMATION_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.RESEND_CONFIRMATION_API,
+                Constants.RelationStates.RESEND_REL, null));
         if (NotificationChannels.EXTERNAL_CHANNEL.getChannelType()
                 .equals(resendConfirmationDTO.getNotificationChannel())) {
             ResendConfirmationCodeExternalResponse resendConfirmationCodeExternalResponse =
@@ -288,10 +284,8 @@ public class PasswordRecoveryService {
 
         // Build next API calls list.
         ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-        apiCallsArrayList.add(RecoveryUtil
-                .buildApiCall(Constants.APICall.RESET_PASSWORD_API.getType(), Constants.RelationStates.NEXT_REL,
-                        RecoveryUtil.buildURIForBody(tenantDomain, Constants.APICall.RESET_PASSWORD_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.RESET_PASSWORD_API,
+                Constants.RelationStates.NEXT_REL, null));
         ResetCodeResponse resetCodeResponseDTO = new ResetCodeResponse();
         resetCodeResponseDTO.setResetCode(passwordResetCodeDTO.getPasswordResetCode());
         resetCodeResponseDTO.setLinks(apiCallsArrayList);
@@ -311,15 +305,11 @@ public class PasswordRecoveryService {
 
         // Build next API calls.
         ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-        apiCallsArrayList.add(RecoveryUtil.buildApiCall(Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API.getType(),
-                Constants.RelationStates.NEXT_REL, RecoveryUtil
-                        .buildURIForBody(tenantDomain, Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.CONFIRM_PASSWORD_RECOVERY_API,
+                Constants.RelationStates.NEXT_REL, null));
         // Add resend confirmation code API call information.
-        apiCallsArrayList.add(RecoveryUtil.buildApiCall(Constants.APICall.RESEND_CONFIRMATION_API.getType(),
-                Constants.RelationStates.RESEND_REL, RecoveryUtil
-                        .buildURIForBody(tenantDomain, Constants.APICall.RESEND_CONFIRMATION_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.RESEND_CONFIRMATION_API,
+                Constants.RelationStates.RESEND_REL, null));
         if (NotificationChannels.EXTERNAL_CHANNEL.getChannelType().equals(notificationChannel)) {
             return Response.ok()
                     .entity(buildPasswordRecoveryExternalResponse(passwordRecoverDTO, apiCallsArrayList)).build();
@@ -423,10 +413,8 @@ public class PasswordRecoveryService {
         if (isNotificationBasedRecoveryEnabled) {
             // Build next API calls list.
             ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-            apiCallsArrayList.add(RecoveryUtil.buildApiCall(Constants.APICall.RECOVER_PASSWORD_API.getType(),
-                    Constants.RelationStates.NEXT_REL, RecoveryUtil
-                            .buildURIForBody(tenantDomain, Constants.APICall.RECOVER_PASSWORD_API.getApiUrl(),
-                                    Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+            apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.RECOVER_PASSWORD_API,
+                    Constants.RelationStates.NEXT_REL, null));
             RecoveryChannelInformation recoveryChannelInformation = buildRecoveryChannelInformation(
                     recoveryInformationDTO);
             // Build recovery information for recover with notifications.
@@ -437,12 +425,9 @@ public class PasswordRecoveryService {
         if (isQuestionBasedRecoveryEnabled) {
             // Build next API calls list.
             ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-            apiCallsArrayList.add(RecoveryUtil
-                    .buildApiCall(Constants.APICall.RECOVER_WITH_SECURITY_QUESTIONS_API.getType(),
-                            Constants.RelationStates.NEXT_REL, RecoveryUtil.buildURIForBody(tenantDomain,
-                                    Constants.APICall.RECOVER_WITH_SECURITY_QUESTIONS_API.getApiUrl(),
-                                    Constants.CHALLENGE_QUESTIONS_ENDPOINT_BASEPATH),
-                            recoveryInformationDTO.getUsername()));
+            apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain,
+                    Constants.APICall.RECOVER_WITH_SECURITY_QUESTIONS_API, Constants.RelationStates.NEXT_REL,
+                    recoveryInformationDTO.getUsername()));
             // Build recovery information for recover with security questions.
             AccountRecoveryType accountRecoveryType = buildAccountRecoveryType(
                     Constants.RECOVER_WITH_CHALLENGE_QUESTIONS, null, apiCallsArrayList);
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.user.common.Util;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
+import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions.TooManyRequestsException;
+import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.ErrorResponse;
+import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.UserClaim;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * In-memory rate limiter for the unauthenticated account recovery endpoints. Requests are limited by the client IP
+ * and by a hash of the submitted identifier (claims or recovery code), using a token bucket for each key. The keys
+ * are scoped to the tenant of the request, and the buckets are kept per node, hence in a cluster each node enforces
+ * the limits independently.
+ * <p>
+ * The client IP is the remote address of the connection. Forwarding headers are only used when the connection comes
+ * from one of the configured trusted proxies, since any client can set them.
+ */
+public class RecoveryRateLimiter {
+
+    private static final Log log = LogFactory.getLog(RecoveryRateLimiter.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final double EVICTION_RATIO = 0.9;
+
+    private final boolean enabled;
+    private final Limit clientIpLimit;
+    private final Limit identifierLimit;
+    private final int maxTrackedKeys;
+    private final Set<String> trustedProxies;
+
+    // Theoretical arrival time of the next request for each key. A key whose value is in the past has a full bucket.
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RecoveryRateLimiter() {
+
+        enabled = Boolean.parseBoolean(IdentityUtil.getProperty(Constants.RateLimitConfig.ENABLE));
+        clientIpLimit = new Limit(
+                getIntProperty(Constants.RateLimitConfig.CLIENT_IP_CAPACITY,
+                        Constants.RateLimitConfig.DEFAULT_CLIENT_IP_CAPACITY),
+                getIntProperty(Constants.RateLimitConfig.CLIENT_IP_REFILL_PERIOD,
+                        Constants.RateLimitConfig.DEFAULT_CLIENT_IP_REFILL_PERIOD));
+        identifierLimit = new Limit(
+                getIntProperty(Constants.RateLimitConfig.IDENTIFIER_CAPACITY,
+                        Constants.RateLimitConfig.DEFAULT_IDENTIFIER_CAPACITY),
+                getIntProperty(Constants.RateLimitConfig.IDENTIFIER_REFILL_PERIOD,
+                        Constants.RateLimitConfig.DEFAULT_IDENTIFIER_REFILL_PERIOD));
+        maxTrackedKeys = getIntProperty(Constants.RateLimitConfig.MAX_TRACKED_KEYS,
+                Constants.RateLimitConfig.DEFAULT_MAX_TRACKED_KEYS);
+        trustedProxies = getTrustedProxies();
+    }
+
+    /**
+     * Check the rate limits of a recovery initiation request, which is identified by the submitted claims.
+     *
+     * @param scenario Recovery scenario
+     * @param claims   Claims submitted in the request
+     */
+    public void checkClaims(String scenario, List<UserClaim> claims) {
+
+        if (!enabled) {
+            return;
+        }
+        // Sort the claims so that the same claims submitted in a different order map to the same bucket.
+        Map<String, String> sortedClaims = new TreeMap<>();
+        if (claims != null) {
+            for (UserClaim claim : claims) {
+                sortedClaims.put(StringUtils.defaultString(claim.getUri()),
+                        StringUtils.defaultString(claim.getValue()));
+            }
+        }
+        check(scenario, sortedClaims.toString());
+    }
+
+    /**
+     * Check the rate limits of a recovery request.
+     *
+     * @param scenario   Recovery scenario
+     * @param identifier Identifier submitted in the request, such as a recovery code
+     */
+    public void check(String scenario, String identifier) {
+
+        if (!enabled) {
+            return;
+        }
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        String clientIp = getClientIp();
+        if (StringUtils.isNotBlank(clientIp)) {
+            consume(scenario, Constants.RateLimitConfig.CLIENT_IP_KEY_PREFIX + tenantDomain +
+                    Constants.RateLimitConfig.KEY_SEPARATOR + clientIp, clientIpLimit);
+        }
+        if (StringUtils.isNotBlank(identifier)) {
+            consume(scenario, Constants.RateLimitConfig.IDENTIFIER_KEY_PREFIX + tenantDomain +
+                    Constants.RateLimitConfig.KEY_SEPARATOR + hash(identifier), identifierLimit);
+        }
+    }
+
+    private void consume(String scenario, String key, Limit limit) {
+
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long arrivalTime = bucket.get();
+            long nextArrivalTime = Math.max(arrivalTime, now) + limit.refillPeriod;
+            long excess = nextArrivalTime - now - limit.burst;
+            if (excess > 0) {
+                throw buildTooManyRequestsException(scenario, TimeUnit.NANOSECONDS.toSeconds(excess - 1) + 1);
+            }
+            if (bucket.compareAndSet(arrivalTime, nextArrivalTime)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Make room for new keys by removing the keys whose buckets are full and, if that is not enough, the keys with
+     * the earliest arrival times, which are the buckets closest to being full. Eviction is done by one thread at a
+     * time, and removes keys down to {@link #EVICTION_RATIO} of the maximum so that it does not run on every request.
+     * New keys are still tracked while another thread evicts, hence the maximum can be exceeded by the number of
+     * requests in flight.
+     *
+     * @param now Current time
+     */
+    private void evict(long now) {
+
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(arrivalTime -> arrivalTime.get() <= now);
+            int excess = buckets.size() - (int) (maxTrackedKeys * EVICTION_RATIO);
+            if (excess <= 0) {
+                return;
+            }
+            long[] arrivalTimes = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+            if (arrivalTimes.length == 0) {
+                return;
+            }
+            long threshold = arrivalTimes[Math.min(excess, arrivalTimes.length) - 1];
+            buckets.values().removeIf(arrivalTime -> arrivalTime.get() <= threshold);
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum number of rate limited keys reached. Evicted the keys closest to a full bucket.");
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private TooManyRequestsException buildTooManyRequestsException(String scenario, long retryAfter) {
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setCode(scenario + IdentityRecoveryConstants.EXCEPTION_SCENARIO_SEPARATOR +
+                Constants.ERROR_CODE_TOO_MANY_REQUESTS);
+        errorResponse.setMessage(Constants.STATUS_TOO_MANY_REQUESTS_MESSAGE_DEFAULT);
+        errorResponse.setDescription(String.format(Constants.STATUS_TOO_MANY_REQUESTS_DESCRIPTION_DEFAULT,
+                retryAfter));
+        errorResponse.setTraceId(Util.getCorrelation());
+        return new TooManyRequestsException(errorResponse, retryAfter);
+    }
+
+    private String getClientIp() {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message == null) {
+            return null;
+        }
+        HttpServletRequest request = (HttpServletRequest) message.get(AbstractHTTPDestination.HTTP_REQUEST);
+        if (request == null) {
+            return null;
+        }
+        String clientIp = request.getRemoteAddr();
+        if (!trustedProxies.contains(clientIp)) {
+            return clientIp;
+        }
+        // Each trusted proxy appends the address it received the request from. Hence the last address which is not
+        // a trusted proxy is the client, and the addresses before it can be set by the client.
+        String forwardedFor = request.getHeader(Constants.RateLimitConfig.HEADER_X_FORWARDED_FOR);
+        if (StringUtils.isBlank(forwardedFor)) {
+            return clientIp;
+        }
+        String[] forwardedIps = forwardedFor.split(Constants.RateLimitConfig.ADDRESS_SEPARATOR);
+        for (int i = forwardedIps.length - 1; i >= 0; i--) {
+            String forwardedIp = forwardedIps[i].trim();
+            if (StringUtils.isBlank(forwardedIp)) {
+                continue;
+            }
+            clientIp = forwardedIp;
+            if (!trustedProxies.contains(forwardedIp)) {
+                break;
+            }
+        }
+        return clientIp;
+    }
+
+    private String hash(String identifier) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(
+                    messageDigest.digest(identifier.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Set<String> getTrustedProxies() {
+
+        String value = IdentityUtil.getProperty(Constants.RateLimitConfig.TRUSTED_PROXIES);
+        if (StringUtils.isBlank(value)) {
+            return Collections.emptySet();
+        }
+        Set<String> proxies = new HashSet<>();
+        for (String proxy : value.split(Constants.RateLimitConfig.ADDRESS_SEPARATOR)) {
+            if (StringUtils.isNotBlank(proxy)) {
+                proxies.add(proxy.trim());
+            }
+        }
+        return Collections.unmodifiableSet(proxies);
+    }
+
+    private static int getIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the default value.
+            }
+            log.warn("Invalid value: " + value + " configured for: " + property + ". Using the default value: "
+                    + defaultValue);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Token bucket limit. A bucket holds at most {@code capacity} tokens and one token is added to it in each
+     * refill period.
+     */
+    private static class Limit {
+
+        private final long refillPeriod;
+        private final long burst;
+
+        Limit(int capacity, int refillPeriodInSeconds) {
+
+            this.refillPeriod = TimeUnit.SECONDS.toNanos(refillPeriodInSeconds);
+            this.burst = capacity * refillPeriod;
+        }
+    }
+}
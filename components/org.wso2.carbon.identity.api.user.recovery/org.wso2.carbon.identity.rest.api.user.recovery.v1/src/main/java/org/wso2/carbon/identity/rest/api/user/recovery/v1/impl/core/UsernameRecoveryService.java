@@ -162,10 +162,8 @@ public class UsernameRecoveryService {
         recoveryChannelInformation.setChannels(channels);
         // Build next API calls.
         ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-        apiCallsArrayList.add(RecoveryUtil
-                .buildApiCall(Constants.APICall.RECOVER_USERNAME_API.getType(), Constants.RelationStates.NEXT_REL,
-                        RecoveryUtil.buildURIForBody(tenantDomain, Constants.APICall.RECOVER_USERNAME_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(RecoveryUtil.buildApiCall(tenantDomain, Constants.APICall.RECOVER_USERNAME_API,
+                Constants.RelationStates.NEXT_REL, null));
         // Build recovery type information.
         AccountRecoveryType accountRecoveryType = new AccountRecoveryType();
         accountRecoveryType.setMode(Constants.RECOVERY_WITH_NOTIFICATIONS);
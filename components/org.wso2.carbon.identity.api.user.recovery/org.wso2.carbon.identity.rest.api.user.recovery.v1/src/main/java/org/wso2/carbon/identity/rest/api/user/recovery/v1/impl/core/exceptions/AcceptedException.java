@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * AcceptedException class. Used to hide the existence of a user by returning an accepted response for the requests
+ * made for non-existing users.
+ */
+public class AcceptedException extends RecoveryClientErrorException {
+
+    /**
+     * Constructs a new exception instance with an empty accepted response.
+     */
+    public AcceptedException() {
+
+        super(Response.accepted().build());
+    }
+}
@@ -18,13 +18,12 @@ package org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.Constants;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.ErrorResponse;
 
-import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
 /**
  * BadRequestException class.
  */
-public class BadRequestException extends WebApplicationException {
+public class BadRequestException extends RecoveryClientErrorException {
 
     /**
      * Exception message.
@@ -19,13 +19,12 @@ import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.Constants;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.ErrorResponse;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.RetryErrorResponse;
 
-import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
 /**
  * PreconditionFailedException class.
  */
-public class PreconditionFailedException extends WebApplicationException {
+public class PreconditionFailedException extends RecoveryClientErrorException {
 
     /**
      * Exception message.
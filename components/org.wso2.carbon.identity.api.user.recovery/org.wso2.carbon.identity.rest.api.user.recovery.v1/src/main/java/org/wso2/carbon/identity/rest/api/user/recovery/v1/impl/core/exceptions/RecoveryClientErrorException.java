@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+/**
+ * Base class of the exceptions thrown for the expected client errors of the recovery endpoints. These exceptions
+ * only carry the response to be sent to the client, hence the stack trace is not filled. Server errors should use
+ * {@link InternalServerErrorException}, which keeps the stack trace.
+ */
+public abstract class RecoveryClientErrorException extends WebApplicationException {
+
+    /**
+     * Constructs a new exception with the given response.
+     *
+     * @param response Response to be sent to the client
+     */
+    protected RecoveryClientErrorException(Response response) {
+
+        super(response);
+    }
+
+    /**
+     * Constructs a new exception with the given status.
+     *
+     * @param status Status of the response to be sent to the client
+     */
+    protected RecoveryClientErrorException(Response.Status status) {
+
+        super(status);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+
+        return this;
+    }
+}
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.recovery.IdentityRecoveryClientException;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryConstants;
 import org.wso2.carbon.identity.recovery.dto.NotificationChannelDTO;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.Constants;
+import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions.AcceptedException;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions.ConflictException;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions.ForbiddenException;
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.impl.core.exceptions.InternalServerErrorException;
@@ -43,8 +44,12 @@ import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.RetryErrorRespon
 import org.wso2.carbon.identity.rest.api.user.recovery.v1.model.UserClaim;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
@@ -67,6 +72,15 @@ public class RecoveryUtil {
     // Map with the error codes categorized in to different error groups.
     private static final HashMap<String, String> clientErrorMap = generateClientErrorMap();
 
+    // Whether the user existence is notified in the recovery responses. The configuration is read from identity.xml,
+    // which is loaded once at the server startup.
+    private static final boolean NOTIFY_USER_EXISTENCE = Boolean.parseBoolean(IdentityUtil
+            .getProperty(IdentityRecoveryConstants.ConnectorConfig.NOTIFY_USER_EXISTENCE));
+
+    // Resolved urls of the recovery APIs for each tenant. The urls only depend on the tenant domain and the server
+    // configuration, hence they are built once per tenant instead of once per response.
+    private static final Map<String, Map<Constants.APICall, String>> apiCallUrls = new ConcurrentHashMap<>();
+
     /**
      * Converts a list of UserClaim in to a UserClaim array.
      *
@@ -170,23 +184,18 @@ public class RecoveryUtil {
                     return buildForbiddenRequestResponseObject(className, exception.getMessage(), errorCode,
                             correlationId);
                 case CONFLICT_REQUEST_ERROR_CATEGORY:
-                    if (IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_MULTIPLE_MATCHING_USERS.getCode()
-                            .equals(errorCode)) {
-                        // If user notify is not enabled, throw a accepted response.
-                        if (!Boolean.parseBoolean(IdentityUtil
-                                .getProperty(IdentityRecoveryConstants.ConnectorConfig.NOTIFY_USER_EXISTENCE))) {
-                            return new WebApplicationException(Response.accepted().build());
-                        }
+                    // If user notify is not enabled, throw a accepted response.
+                    if (!NOTIFY_USER_EXISTENCE && IdentityRecoveryConstants.ErrorMessages
+                            .ERROR_CODE_MULTIPLE_MATCHING_USERS.getCode().equals(errorCode)) {
+                        return new AcceptedException();
                     }
                     return buildConflictRequestResponseObject(className, exception.getMessage(),
                             exception.getErrorCode(), correlationId);
                 case REQUEST_NOT_FOUND_ERROR_CATEGORY:
-                    if (IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_NO_USER_FOUND.getCode().equals(errorCode)) {
-                        // If user notify is not enabled, throw a accepted response.
-                        if (!Boolean.parseBoolean(IdentityUtil
-                                .getProperty(IdentityRecoveryConstants.ConnectorConfig.NOTIFY_USER_EXISTENCE))) {
-                            return new WebApplicationException(Response.accepted().build());
-                        }
+                    // If user notify is not enabled, throw a accepted response.
+                    if (!NOTIFY_USER_EXISTENCE && IdentityRecoveryConstants.ErrorMessages.ERROR_CODE_NO_USER_FOUND
+                            .getCode().equals(errorCode)) {
+                        return new AcceptedException();
                     }
                     return buildRequestNotFoundResponseObject(className, exception.getMessage(), errorCode,
                             correlationId);
@@ -251,6 +260,20 @@ public class RecoveryUtil {
         return apiCall;
     }
 
+    /**
+     * Build API call information using the resolved url of the API in the given tenant.
+     *
+     * @param tenantDomain Tenant domain
+     * @param apiCall      API to be called
+     * @param rel          API relation
+     * @param data         Additional data
+     * @return APICall {@link APICall} which encapsulates the API name and the url
+     */
+    public static APICall buildApiCall(String tenantDomain, Constants.APICall apiCall, String rel, String data) {
+
+        return buildApiCall(apiCall.getType(), rel, getApiCallUrls(tenantDomain).get(apiCall), data);
+    }
+
     /**
      * @deprecated This was deprecated because the requirement is to get the absolute and relative URIs by using the
      * {@link ServiceURLBuilder} methods.
@@ -299,6 +322,26 @@ public class RecoveryUtil {
         return url;
     }
 
+    /**
+     * Get the resolved urls of all the recovery APIs in the given tenant.
+     *
+     * @param tenantDomain Tenant domain
+     * @return Unmodifiable map of the API urls
+     */
+    private static Map<Constants.APICall, String> getApiCallUrls(String tenantDomain) {
+
+        return apiCallUrls.computeIfAbsent(tenantDomain, RecoveryUtil::buildApiCallUrls);
+    }
+
+    private static Map<Constants.APICall, String> buildApiCallUrls(String tenantDomain) {
+
+        Map<Constants.APICall, String> urls = new EnumMap<>(Constants.APICall.class);
+        for (Constants.APICall apiCall : Constants.APICall.values()) {
+            urls.put(apiCall, buildURIForBody(tenantDomain, apiCall.getApiUrl(), apiCall.getBasePath()));
+        }
+        return Collections.unmodifiableMap(urls);
+    }
+
     /**
      * Builds the API context on whether the tenant qualified url is enabled or not. In tenant qualified mode the
      * ServiceURLBuilder appends the tenant domain to the URI as a path param automatically. But
@@ -369,10 +412,8 @@ public class RecoveryUtil {
 
         // Build next API calls.
         ArrayList<APICall> apiCallsArrayList = new ArrayList<>();
-        apiCallsArrayList.add(RecoveryUtil
-                .buildApiCall(Constants.APICall.RESET_PASSWORD_API.getType(), Constants.RelationStates.NEXT_REL,
-                        buildURIForBody(tenantDomain, Constants.APICall.RESET_PASSWORD_API.getApiUrl(),
-                                Constants.ACCOUNT_RECOVERY_ENDPOINT_BASEPATH), null));
+        apiCallsArrayList.add(buildApiCall(tenantDomain, Constants.APICall.RESET_PASSWORD_API,
+                Constants.RelationStates.NEXT_REL, null));
         RetryErrorResponse retryErrorResponse = buildRetryErrorResponse(
                 Constants.STATUS_PRECONDITION_FAILED_MESSAGE_DEFAULT, code, description, resetCode, correlationId,
                 apiCallsArrayList);
@@ -23,6 +23,10 @@ public class TOTPConstants {
 
     public static final String USER_TOTP_PREFIX = "OTP-";
 
+    // Time an accepted verification code is remembered to reject its replays. This covers the time a code stays
+    // valid with the default time step (30s) and window size (3) of the TOTP authenticator.
+    public static final long USED_CODE_RETENTION_PERIOD_IN_SECONDS = 120;
+
     /**
      * Enum for totp related errors in the format of
      * Error Code - code to identify the error
@@ -60,6 +60,15 @@ public class TOTPService {
 
     private static final Log log = LogFactory.getLog(TOTPService.class);
 
+    // Authenticators only depend on the key representation, hence they are built once for each representation.
+    private static final TOTPAuthenticatorCredentials BASE32_AUTHENTICATOR =
+            buildAuthenticator(TOTPKeyRepresentation.BASE32);
+    private static final TOTPAuthenticatorCredentials BASE64_AUTHENTICATOR =
+            buildAuthenticator(TOTPKeyRepresentation.BASE64);
+
+    private final UsedVerificationCodeStore usedVerificationCodes =
+            new UsedVerificationCodeStore(TOTPConstants.USED_CODE_RETENTION_PERIOD_IN_SECONDS);
+
     /**
      * Retrieve the secret key of a given user.
      *
@@ -67,23 +76,18 @@ public class TOTPService {
      */
     public TOTPSecretResponseDTO getSecretKey() {
 
-        UserRealm userRealm;
         String encoding;
 
         User user = getUser();
         TOTPSecretResponseDTO totpResponseDTO = new TOTPSecretResponseDTO();
         String secretKey = null;
-        String tenantAwareUsername = null;
+        String tenantAwareUsername = MultitenantUtils.getTenantAwareUsername(user.toFullQualifiedUsername());
         Map<String, String> claims = new HashMap<>();
 
         try {
-            userRealm = TOTPUtil.getUserRealm(user.toFullQualifiedUsername());
-            tenantAwareUsername = MultitenantUtils.getTenantAwareUsername(user.toFullQualifiedUsername());
+            UserRealm userRealm = TOTPUtil.getUserRealm(user.toFullQualifiedUsername());
             if (userRealm != null) {
-                Map<String, String> userClaimValues = userRealm.getUserStoreManager().
-                        getUserClaimValues(tenantAwareUsername,
-                                new String[] { TOTPAuthenticatorConstants.SECRET_KEY_CLAIM_URL }, null);
-                secretKey = userClaimValues.get(TOTPAuthenticatorConstants.SECRET_KEY_CLAIM_URL);
+                secretKey = readSecretKey(userRealm, tenantAwareUsername);
                 if (StringUtils.isEmpty(secretKey)) {
                     TOTPAuthenticatorKey key = TOTPKeyGenerator.generateKey(user.getTenantDomain());
                     secretKey = key.getKey();
@@ -93,8 +97,6 @@ public class TOTPService {
                     claims.put(TOTPAuthenticatorConstants.SECRET_KEY_CLAIM_URL, TOTPUtil.encrypt(secretKey));
                     claims.put(TOTPAuthenticatorConstants.ENCODING_CLAIM_URL, encoding);
                     TOTPKeyGenerator.addTOTPClaimsAndRetrievingQRCodeURL(claims, user.toFullQualifiedUsername());
-                } else {
-                    secretKey = TOTPUtil.decrypt(secretKey);
                 }
             }
         } catch (AuthenticationFailedException e) {
@@ -193,31 +195,75 @@ public class TOTPService {
     public TOTPResponseDTO validateTOTP(int verificationCode) {
 
         TOTPResponseDTO totpResponseDTO = new TOTPResponseDTO();
-        String username = getUser().toString();
-        TOTPKeyRepresentation encoding = TOTPKeyRepresentation.BASE32;
+        User user = getUser();
+        String username = user.toString();
         String tenantDomain = MultitenantUtils.getTenantDomain(username);
-        String encodingMethod;
+        String tenantAwareUsername = MultitenantUtils.getTenantAwareUsername(user.toFullQualifiedUsername());
         try {
-            encodingMethod = TOTPUtil.getEncodingMethod(tenantDomain);
-            if (TOTPAuthenticatorConstants.BASE64.equals(encodingMethod)) {
-                encoding = TOTPKeyRepresentation.BASE64;
+            TOTPAuthenticatorCredentials totpAuthenticator = BASE32_AUTHENTICATOR;
+            if (TOTPAuthenticatorConstants.BASE64.equals(TOTPUtil.getEncodingMethod(tenantDomain))) {
+                totpAuthenticator = BASE64_AUTHENTICATOR;
+            }
+            UserRealm userRealm = TOTPUtil.getUserRealm(user.toFullQualifiedUsername());
+            String secretKey = null;
+            if (userRealm != null) {
+                secretKey = readSecretKey(userRealm, tenantAwareUsername);
+            }
+            // Validation never generates a secret key. A user without a secret key cannot have a valid code.
+            if (StringUtils.isEmpty(secretKey)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("No TOTP secret key found for the user: " + username);
+                }
+                totpResponseDTO.setIsValid(false);
+                return totpResponseDTO;
             }
-            TOTPAuthenticatorConfig.TOTPAuthenticatorConfigBuilder configBuilder =
-                    new TOTPAuthenticatorConfig.TOTPAuthenticatorConfigBuilder()
-                            .setKeyRepresentation(encoding);
-            TOTPAuthenticatorCredentials totpAuthenticator =
-                    new TOTPAuthenticatorCredentials(configBuilder.build());
-            String secretKey = getSecretKey().getSecret();
             if (log.isDebugEnabled()) {
                 log.debug("Validating TOTP verification code for the user: " + username);
             }
-            totpResponseDTO.setIsValid(totpAuthenticator.authorize(secretKey, verificationCode));
+            boolean isValid = totpAuthenticator.authorize(secretKey, verificationCode);
+            // A valid code is accepted only once, to prevent the replay of a code within its validity period.
+            if (isValid && !usedVerificationCodes.markAsUsed(user.toFullQualifiedUsername(), verificationCode)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("TOTP verification code is already used by the user: " + username);
+                }
+                isValid = false;
+            }
+            totpResponseDTO.setIsValid(isValid);
         } catch (AuthenticationFailedException e) {
             throw handleException(e, USER_ERROR_UNAUTHORIZED_USER);
+        } catch (UserStoreException e) {
+            throw handleException(e, SERVER_ERROR_RETRIEVING_USERSTORE_MANAGER, tenantAwareUsername);
+        } catch (CryptoException e) {
+            throw handleException(e, SERVER_ERROR_DECRYPTING_SECRET);
         }
         return totpResponseDTO;
     }
 
+    /**
+     * Read the decrypted secret key of a user from the user store. The user store is not updated.
+     *
+     * @param userRealm           User realm of the user.
+     * @param tenantAwareUsername Tenant aware username of the user.
+     * @return Decrypted secret key, or null if the user does not have a secret key.
+     */
+    private String readSecretKey(UserRealm userRealm, String tenantAwareUsername)
+            throws UserStoreException, CryptoException {
+
+        Map<String, String> userClaimValues = userRealm.getUserStoreManager().getUserClaimValues(tenantAwareUsername,
+                new String[] { TOTPAuthenticatorConstants.SECRET_KEY_CLAIM_URL }, null);
+        String secretKey = userClaimValues.get(TOTPAuthenticatorConstants.SECRET_KEY_CLAIM_URL);
+        if (StringUtils.isEmpty(secretKey)) {
+            return null;
+        }
+        return TOTPUtil.decrypt(secretKey);
+    }
+
+    private static TOTPAuthenticatorCredentials buildAuthenticator(TOTPKeyRepresentation encoding) {
+
+        return new TOTPAuthenticatorCredentials(new TOTPAuthenticatorConfig.TOTPAuthenticatorConfigBuilder()
+                .setKeyRepresentation(encoding).build());
+    }
+
     /**
      * Get authenticated user.
      *
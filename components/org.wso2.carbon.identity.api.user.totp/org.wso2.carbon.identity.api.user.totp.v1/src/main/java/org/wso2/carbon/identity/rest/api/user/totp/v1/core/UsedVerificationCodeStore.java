@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.user.totp.v1.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory store of the recently accepted TOTP verification codes of each user, used to reject the replays of a
+ * code while it is still valid. A code is remembered for the given retention period and the expired codes are
+ * purged at most once per retention period. The store is kept per node.
+ */
+public class UsedVerificationCodeStore {
+
+    private static final String KEY_SEPARATOR = "#";
+
+    private final long retentionPeriod;
+    private final Map<String, Long> usedCodes = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeTime;
+
+    public UsedVerificationCodeStore(long retentionPeriodInSeconds) {
+
+        this.retentionPeriod = TimeUnit.SECONDS.toNanos(retentionPeriodInSeconds);
+        this.nextPurgeTime = new AtomicLong(System.nanoTime() + retentionPeriod);
+    }
+
+    /**
+     * Mark a verification code as used by the given user.
+     *
+     * @param username         Fully qualified username of the user.
+     * @param verificationCode Verification code accepted for the user.
+     * @return True if the code was not used by the user within the retention period.
+     */
+    public boolean markAsUsed(String username, int verificationCode) {
+
+        long now = System.nanoTime();
+        purgeExpiredCodes(now);
+        String key = username + KEY_SEPARATOR + verificationCode;
+        Long expiryTime = now + retentionPeriod;
+        Long existingExpiryTime = usedCodes.putIfAbsent(key, expiryTime);
+        while (existingExpiryTime != null) {
+            if (existingExpiryTime - now > 0) {
+                return false;
+            }
+            // The code was used before the retention period, hence it is accepted again.
+            if (usedCodes.replace(key, existingExpiryTime, expiryTime)) {
+                return true;
+            }
+            existingExpiryTime = usedCodes.putIfAbsent(key, expiryTime);
+        }
+        return true;
+    }
+
+    private void purgeExpiredCodes(long now) {
+
+        long purgeTime = nextPurgeTime.get();
+        if (now - purgeTime >= 0 && nextPurgeTime.compareAndSet(purgeTime, now + retentionPeriod)) {
+            usedCodes.values().removeIf(expiryTime -> now - expiryTime >= 0);
+        }
+    }
+}